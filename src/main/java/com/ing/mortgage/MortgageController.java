@@ -39,7 +39,7 @@ public class MortgageController {
                             schema = @Schema(implementation = MortgageCheckResponse.class))}),
             @ApiResponse(responseCode = "404", description = "Maturity Period Not Found!",
                     content = @Content),
-            @ApiResponse(responseCode = "400", description = "Annual income not enough for this loan or Loan Value is higher then House Value!",
+            @ApiResponse(responseCode = "400", description = "Annual income not enough for this loan, Loan Value is higher then House Value or Loan to Value is too high!",
                     content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal Server Error!",
                     content = @Content)})
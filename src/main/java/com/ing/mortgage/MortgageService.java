@@ -1,11 +1,14 @@
 package com.ing.mortgage;
 
+import com.ing.mortgage.analytics.MortgageAnalytics;
 import com.ing.mortgage.exception.LoanHigherThanHouseValueException;
+import com.ing.mortgage.exception.LoanToValueTooHighException;
 import com.ing.mortgage.exception.LowIncomeForLoanException;
 import com.ing.mortgage.exception.MaturityPeriodNotFoundException;
 import com.ing.mortgage.model.request.MortgageRequest;
 import com.ing.mortgage.model.response.MortgageCheckResponse;
 import com.ing.mortgage.model.response.MortgageRateResponse;
+import com.ing.mortgage.rules.MortgageRules;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,7 +23,8 @@ import java.util.List;
 public class MortgageService {
 
     private final MortgageDataInitializer mortgageDataInitializer;
-    private static final BigDecimal ALLOWED_INCOME_MULTIPLIER = BigDecimal.valueOf(4);
+    private final MortgageAnalytics mortgageAnalytics;
+    private final MortgageRules mortgageRules;
     private static final int STANDARD_MORTGAGE_PERIOD_YEARS = 30;
 
     public List<MortgageRateResponse> getAllMortgagesRates() {
@@ -33,24 +37,18 @@ public class MortgageService {
                         "loanValue: {} and houseValue: {}", mortgageRequest.income(), mortgageRequest.maturityPeriod(),
                 mortgageRequest.loanValue(), mortgageRequest.homeValue());
 
-        checkMortgageRules(mortgageRequest);
-        var monthlyCosts = calculateMonthlyMortgageCost(mortgageRequest.maturityPeriod(), mortgageRequest.loanValue());
-
-        return MortgageCheckResponse.builder().feasible(true).monthlyCosts(monthlyCosts).build();
-    }
-
-    private void checkMortgageRules(MortgageRequest mortgageRequest) {
-        var desiredLoanValue = mortgageRequest.loanValue();
-        var income = mortgageRequest.income();
-        var houseValue = mortgageRequest.homeValue();
-
-        if (desiredLoanValue.compareTo(income.multiply(ALLOWED_INCOME_MULTIPLIER)) > 0) {
-            throw new LowIncomeForLoanException();
+        BigDecimal monthlyCosts;
+        try {
+            mortgageRules.checkLoan(mortgageRequest);
+            monthlyCosts = calculateMonthlyMortgageCost(mortgageRequest.maturityPeriod(), mortgageRequest.loanValue());
+            mortgageRules.checkAffordability(mortgageRequest, monthlyCosts);
+        } catch (LowIncomeForLoanException | LoanHigherThanHouseValueException | LoanToValueTooHighException e) {
+            mortgageAnalytics.record(mortgageRequest, null);
+            throw e;
         }
+        mortgageAnalytics.record(mortgageRequest, monthlyCosts);
 
-        if (desiredLoanValue.compareTo(houseValue) > 0) {
-            throw new LoanHigherThanHouseValueException();
-        }
+        return MortgageCheckResponse.builder().feasible(true).monthlyCosts(monthlyCosts).build();
     }
 
     private BigDecimal calculateMonthlyMortgageCost(Integer maturityPeriodYears, BigDecimal loanAmount) {
@@ -0,0 +1,17 @@
+package com.ing.mortgage.analytics;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record AnalyticsSnapshot(
+    AnalyticsWindow window,
+    long checks,
+    long approvals,
+    double approvalRate,
+    Map<String, MaturityOutcome> maturityPeriods,
+    QuantileSummary loanValue,
+    QuantileSummary loanToValue,
+    QuantileSummary monthlyCosts
+) {}
@@ -0,0 +1,18 @@
+package com.ing.mortgage.analytics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+public enum AnalyticsWindow {
+
+    MINUTE(Duration.ofSeconds(5), 12),
+    HOUR(Duration.ofMinutes(1), 60),
+    DAY(Duration.ofHours(1), 24);
+
+    private final Duration slot;
+    private final int slotCount;
+}
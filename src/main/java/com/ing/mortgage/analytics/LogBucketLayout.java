@@ -0,0 +1,71 @@
+package com.ing.mortgage.analytics;
+
+/**
+ * Maps positive values onto a fixed number of logarithmically sized buckets, so that any value
+ * read back from a bucket is within {@code relativeAccuracy} of the values recorded in it.
+ * Values at or below {@code minValue} land in the first bucket and values above {@code maxValue}
+ * in the last one, which keeps the bucket count (and memory) fixed regardless of the input.
+ */
+final class LogBucketLayout {
+
+    private final double minValue;
+    private final double logGamma;
+    private final double representativeFactor;
+    private final int bucketCount;
+
+    LogBucketLayout(double relativeAccuracy, double minValue, double maxValue) {
+        double gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.minValue = minValue;
+        this.logGamma = Math.log(gamma);
+        this.representativeFactor = 2 / (1 + gamma);
+        this.bucketCount = (int) Math.ceil(Math.log(maxValue / minValue) / logGamma) + 1;
+    }
+
+    int bucketCount() {
+        return bucketCount;
+    }
+
+    int index(double value) {
+        if (!(value > minValue)) {
+            return 0;
+        }
+        var index = (int) Math.ceil(Math.log(value / minValue) / logGamma);
+        return Math.min(index, bucketCount - 1);
+    }
+
+    double value(int index) {
+        if (index == 0) {
+            return minValue;
+        }
+        return minValue * Math.exp(index * logGamma) * representativeFactor;
+    }
+
+    QuantileSummary summarize(long[] counts, int offset) {
+        long total = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            total += counts[offset + i];
+        }
+        if (total == 0) {
+            return QuantileSummary.builder().build();
+        }
+        return QuantileSummary.builder()
+                .count(total)
+                .p50(quantile(counts, offset, total, 0.50))
+                .p90(quantile(counts, offset, total, 0.90))
+                .p95(quantile(counts, offset, total, 0.95))
+                .p99(quantile(counts, offset, total, 0.99))
+                .build();
+    }
+
+    private double quantile(long[] counts, int offset, long total, double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            seen += counts[offset + i];
+            if (seen >= rank) {
+                return value(i);
+            }
+        }
+        return value(bucketCount - 1);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ing.mortgage.analytics;
+
+import lombok.Builder;
+
+@Builder
+public record MaturityOutcome(long checks, long approvals, double approvalRate) {
+}
@@ -0,0 +1,135 @@
+package com.ing.mortgage.analytics;
+
+import com.ing.mortgage.model.request.MortgageRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process analytics over the mortgage checks. Every check increments a handful of counters in a
+ * striped live array: per maturity period outcome counters and logarithmic buckets for the loan
+ * value, the loan-to-value ratio and (for approved checks) the monthly costs. A scheduled flush
+ * drains the live counters into one sliding window per {@link AnalyticsWindow}; since all of them
+ * are plain count arrays they merge by addition and their size never depends on the traffic.
+ */
+@Slf4j
+@Component
+public class MortgageAnalytics {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final int MAX_TRACKED_MATURITY_PERIOD = 40;
+    private static final int FLUSH_INTERVAL_SECONDS = 5;
+    private static final String OTHER_MATURITY_PERIODS = "other";
+
+    private static final LogBucketLayout LOAN_VALUE_LAYOUT = new LogBucketLayout(RELATIVE_ACCURACY, 1, 1e10);
+    private static final LogBucketLayout LOAN_TO_VALUE_LAYOUT = new LogBucketLayout(RELATIVE_ACCURACY, 1e-3, 1e3);
+    private static final LogBucketLayout MONTHLY_COSTS_LAYOUT = new LogBucketLayout(RELATIVE_ACCURACY, 1e-2, 1e8);
+
+    private static final int MATURITY_SLOTS = MAX_TRACKED_MATURITY_PERIOD + 2;
+    private static final int CHECKS_OFFSET = 0;
+    private static final int APPROVALS_OFFSET = CHECKS_OFFSET + MATURITY_SLOTS;
+    private static final int LOAN_VALUE_OFFSET = APPROVALS_OFFSET + MATURITY_SLOTS;
+    private static final int LOAN_TO_VALUE_OFFSET = LOAN_VALUE_OFFSET + LOAN_VALUE_LAYOUT.bucketCount();
+    private static final int MONTHLY_COSTS_OFFSET = LOAN_TO_VALUE_OFFSET + LOAN_TO_VALUE_LAYOUT.bucketCount();
+    private static final int WIDTH = MONTHLY_COSTS_OFFSET + MONTHLY_COSTS_LAYOUT.bucketCount();
+
+    private final Clock clock;
+    private final StripedCounterArray live;
+    private final Map<AnalyticsWindow, SlidingWindow> windows = new EnumMap<>(AnalyticsWindow.class);
+
+    public MortgageAnalytics() {
+        this(Clock.systemUTC());
+    }
+
+    MortgageAnalytics(Clock clock) {
+        this.clock = clock;
+        this.live = new StripedCounterArray(WIDTH, Runtime.getRuntime().availableProcessors());
+        for (AnalyticsWindow window : AnalyticsWindow.values()) {
+            windows.put(window, new SlidingWindow(window, WIDTH));
+        }
+    }
+
+    /**
+     * Records one mortgage check decision. {@code monthlyCosts} is {@code null} when the check was
+     * rejected by a rule; checks that never reached a decision (unknown maturity period) are not recorded.
+     */
+    public void record(MortgageRequest mortgageRequest, BigDecimal monthlyCosts) {
+        var maturitySlot = maturitySlot(mortgageRequest.maturityPeriod());
+        var loanValue = mortgageRequest.loanValue().doubleValue();
+
+        live.increment(CHECKS_OFFSET + maturitySlot);
+        live.increment(LOAN_VALUE_OFFSET + LOAN_VALUE_LAYOUT.index(loanValue));
+        live.increment(LOAN_TO_VALUE_OFFSET + LOAN_TO_VALUE_LAYOUT.index(loanValue / mortgageRequest.homeValue().doubleValue()));
+
+        if (monthlyCosts != null) {
+            live.increment(APPROVALS_OFFSET + maturitySlot);
+            live.increment(MONTHLY_COSTS_OFFSET + MONTHLY_COSTS_LAYOUT.index(monthlyCosts.doubleValue()));
+        }
+    }
+
+    @Scheduled(fixedRate = FLUSH_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public synchronized void flush() {
+        var delta = new long[WIDTH];
+        if (!live.drainTo(delta)) {
+            return;
+        }
+        var now = clock.millis();
+        windows.values().forEach(window -> window.add(now, delta));
+        log.debug("[flush] Flushed mortgage analytics counters");
+    }
+
+    public AnalyticsSnapshot snapshot(AnalyticsWindow window) {
+        flush();
+        var counts = windows.get(window).sum(clock.millis());
+
+        long checks = 0;
+        long approvals = 0;
+        var maturityPeriods = new LinkedHashMap<String, MaturityOutcome>();
+        for (int slot = 0; slot < MATURITY_SLOTS; slot++) {
+            var slotChecks = counts[CHECKS_OFFSET + slot];
+            var slotApprovals = counts[APPROVALS_OFFSET + slot];
+            if (slotChecks > 0) {
+                maturityPeriods.put(maturityKey(slot), MaturityOutcome.builder()
+                        .checks(slotChecks)
+                        .approvals(slotApprovals)
+                        .approvalRate(rate(slotApprovals, slotChecks))
+                        .build());
+            }
+            checks += slotChecks;
+            approvals += slotApprovals;
+        }
+
+        return AnalyticsSnapshot.builder()
+                .window(window)
+                .checks(checks)
+                .approvals(approvals)
+                .approvalRate(rate(approvals, checks))
+                .maturityPeriods(maturityPeriods)
+                .loanValue(LOAN_VALUE_LAYOUT.summarize(counts, LOAN_VALUE_OFFSET))
+                .loanToValue(LOAN_TO_VALUE_LAYOUT.summarize(counts, LOAN_TO_VALUE_OFFSET))
+                .monthlyCosts(MONTHLY_COSTS_LAYOUT.summarize(counts, MONTHLY_COSTS_OFFSET))
+                .build();
+    }
+
+    private static int maturitySlot(Integer maturityPeriod) {
+        if (maturityPeriod == null || maturityPeriod < 0 || maturityPeriod > MAX_TRACKED_MATURITY_PERIOD) {
+            return MATURITY_SLOTS - 1;
+        }
+        return maturityPeriod;
+    }
+
+    private static String maturityKey(int slot) {
+        return slot == MATURITY_SLOTS - 1 ? OTHER_MATURITY_PERIODS : String.valueOf(slot);
+    }
+
+    private static double rate(long part, long total) {
+        return total == 0 ? 0 : (double) part / total;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ing.mortgage.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "analytics")
+@RequiredArgsConstructor
+public class MortgageAnalyticsEndpoint {
+
+    private final MortgageAnalytics mortgageAnalytics;
+
+    @ReadOperation
+    public Map<AnalyticsWindow, AnalyticsSnapshot> snapshots() {
+        var snapshots = new EnumMap<AnalyticsWindow, AnalyticsSnapshot>(AnalyticsWindow.class);
+        for (AnalyticsWindow window : AnalyticsWindow.values()) {
+            snapshots.put(window, mortgageAnalytics.snapshot(window));
+        }
+        return snapshots;
+    }
+
+    @ReadOperation
+    public AnalyticsSnapshot snapshot(@Selector AnalyticsWindow window) {
+        return mortgageAnalytics.snapshot(window);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ing.mortgage.analytics;
+
+import lombok.Builder;
+
+@Builder
+public record QuantileSummary(long count, double p50, double p90, double p95, double p99) {
+}
@@ -0,0 +1,48 @@
+package com.ing.mortgage.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Ring of fixed-width count slots, each covering one slot interval. Slots are tagged with the
+ * interval they belong to and recycled once they fall out of the window, so memory stays at
+ * {@code slotCount * width} counters however long the application runs.
+ */
+final class SlidingWindow {
+
+    private final long slotMillis;
+    private final long[][] slots;
+    private final long[] slotEpochs;
+
+    SlidingWindow(AnalyticsWindow window, int width) {
+        this.slotMillis = window.getSlot().toMillis();
+        this.slots = new long[window.getSlotCount()][width];
+        this.slotEpochs = new long[window.getSlotCount()];
+        Arrays.fill(slotEpochs, Long.MIN_VALUE);
+    }
+
+    synchronized void add(long nowMillis, long[] delta) {
+        var epoch = nowMillis / slotMillis;
+        var index = Math.floorMod(epoch, slots.length);
+        var slot = slots[index];
+        if (slotEpochs[index] != epoch) {
+            Arrays.fill(slot, 0);
+            slotEpochs[index] = epoch;
+        }
+        for (int i = 0; i < delta.length; i++) {
+            slot[i] += delta[i];
+        }
+    }
+
+    synchronized long[] sum(long nowMillis) {
+        var epoch = nowMillis / slotMillis;
+        var total = new long[slots[0].length];
+        for (int s = 0; s < slots.length; s++) {
+            if (slotEpochs[s] > epoch - slots.length && slotEpochs[s] <= epoch) {
+                for (int i = 0; i < total.length; i++) {
+                    total[i] += slots[s][i];
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ing.mortgage.analytics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-width array of counters spread over several stripes, so request threads incrementing the
+ * same cell mostly hit different memory. Stripes are only combined when the counters are drained.
+ */
+final class StripedCounterArray {
+
+    private final AtomicLongArray[] stripes;
+    private final int mask;
+
+    StripedCounterArray(int width, int minimumStripes) {
+        var stripeCount = minimumStripes <= 1 ? 1 : Integer.highestOneBit(minimumStripes - 1) << 1;
+        this.stripes = new AtomicLongArray[stripeCount];
+        this.mask = stripeCount - 1;
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(width);
+        }
+    }
+
+    void increment(int index) {
+        stripes[(int) Thread.currentThread().threadId() & mask].incrementAndGet(index);
+    }
+
+    /**
+     * Moves every counter into {@code target} and resets it. An increment racing with the drain is
+     * either included now or picked up by the next drain, never lost.
+     */
+    boolean drainTo(long[] target) {
+        var drained = false;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < target.length; i++) {
+                if (stripe.get(i) != 0) {
+                    target[i] += stripe.getAndSet(i, 0);
+                    drained = true;
+                }
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ing.mortgage.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class LoanToValueTooHighException extends RuntimeException {
+
+    public LoanToValueTooHighException() {
+        super();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ing.mortgage.exception.handler;
 
 import com.ing.mortgage.exception.LoanHigherThanHouseValueException;
+import com.ing.mortgage.exception.LoanToValueTooHighException;
 import com.ing.mortgage.exception.LowIncomeForLoanException;
 import com.ing.mortgage.exception.MaturityPeriodNotFoundException;
 import org.springframework.http.HttpHeaders;
@@ -26,6 +27,12 @@ public class ControllerExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, bodyOfResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
+    @ExceptionHandler(value = {LoanToValueTooHighException.class})
+    protected ResponseEntity<Object> handleLoanToValueTooHigh(final RuntimeException ex, final WebRequest request) {
+        final String bodyOfResponse = "Loan to value too high for this mortgage!";
+        return handleExceptionInternal(ex, bodyOfResponse, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
+    }
+
     @ExceptionHandler(value = {MaturityPeriodNotFoundException.class})
     protected ResponseEntity<Object> maturityPeriodNotFound(final RuntimeException ex, final WebRequest request) throws LoanHigherThanHouseValueException {
         final String bodyOfResponse = "Maturity period not found!";
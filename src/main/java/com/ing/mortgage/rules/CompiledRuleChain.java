@@ -0,0 +1,181 @@
+package com.ing.mortgage.rules;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rule definitions flattened into parallel primitive arrays. Evaluating a check is a loop of
+ * {@code leftScale * operands[left] <= rightScale * operands[right]} comparisons in the current
+ * order; the first failing rule rejects the check. Operands are whole cents and each limit is kept
+ * as an unscaled numerator over a power-of-ten denominator, so the comparisons are exact integer
+ * arithmetic (on 128-bit products) just like the {@code BigDecimal} comparisons they replace. {@link #reorder()} moves the rules that rejected
+ * most often recently to the front, so when several rules would reject a check the one reported can
+ * change over time.
+ */
+final class CompiledRuleChain {
+
+    private static final int ANY_MATURITY_PERIOD = Integer.MIN_VALUE;
+    private static final int TIMING_SAMPLE_RATE = 64;
+    private static final double RECENT_COUNT_DECAY = 0.5;
+
+    private final String name;
+    private final String[] names;
+    private final int[] left;
+    private final long[] leftScale;
+    private final int[] right;
+    private final long[] rightScale;
+    private final int[] maturityPeriods;
+    private final RuleRejection[] rejections;
+
+    private final LongAdder[] intervalEvaluations;
+    private final LongAdder[] intervalRejections;
+    private final LongAdder sampledChainNanos = new LongAdder();
+    private final LongAdder chainTimingSamples = new LongAdder();
+
+    // Guarded by this: lifetime totals of the drained intervals and the decayed counts used for ordering.
+    private final long[] totalEvaluations;
+    private final long[] totalRejections;
+    private final double[] recentEvaluations;
+    private final double[] recentRejections;
+
+    private volatile int[] order;
+
+    CompiledRuleChain(String name, List<RuleDefinition> definitions) {
+        var size = definitions.size();
+        this.name = name;
+        names = new String[size];
+        left = new int[size];
+        leftScale = new long[size];
+        right = new int[size];
+        rightScale = new long[size];
+        maturityPeriods = new int[size];
+        rejections = new RuleRejection[size];
+        intervalEvaluations = new LongAdder[size];
+        intervalRejections = new LongAdder[size];
+        totalEvaluations = new long[size];
+        totalRejections = new long[size];
+        recentEvaluations = new double[size];
+        recentRejections = new double[size];
+        order = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            var definition = definitions.get(i);
+            var type = definition.type();
+            var limit = normalizeLimit(definition.limit());
+            var numerator = limit.unscaledValue().longValueExact();
+            var denominator = BigInteger.TEN.pow(limit.scale()).longValueExact();
+            names[i] = definition.name();
+            left[i] = type.getLeft().ordinal();
+            leftScale[i] = type.isLimitOnLeft() ? numerator : denominator;
+            right[i] = type.getRight().ordinal();
+            rightScale[i] = type.isLimitOnLeft() ? denominator : numerator;
+            maturityPeriods[i] = definition.maturityPeriod() == null ? ANY_MATURITY_PERIOD : definition.maturityPeriod();
+            rejections[i] = definition.rejection() == null ? type.getDefaultRejection() : definition.rejection();
+            intervalEvaluations[i] = new LongAdder();
+            intervalRejections[i] = new LongAdder();
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Smallest non-negative scale representation of a limit, e.g. {@code 0.70} to {@code 0.7} and
+     * {@code 1E+1} to {@code 10}, so its numerator and denominator stay as small as possible.
+     */
+    static BigDecimal normalizeLimit(BigDecimal limit) {
+        var normalized = limit.stripTrailingZeros();
+        return normalized.scale() < 0 ? normalized.setScale(0) : normalized;
+    }
+
+    void evaluate(long[] operands, int maturityPeriod) {
+        var timed = ThreadLocalRandom.current().nextInt(TIMING_SAMPLE_RATE) == 0;
+        var start = timed ? System.nanoTime() : 0L;
+        for (int rule : order) {
+            if (maturityPeriods[rule] != ANY_MATURITY_PERIOD && maturityPeriods[rule] != maturityPeriod) {
+                continue;
+            }
+            intervalEvaluations[rule].increment();
+            if (!productAtMost(leftScale[rule], operands[left[rule]], rightScale[rule], operands[right[rule]])) {
+                intervalRejections[rule].increment();
+                recordTiming(timed, start);
+                throw rejections[rule].exception();
+            }
+        }
+        recordTiming(timed, start);
+    }
+
+    /**
+     * Drains the counts since the previous call into the lifetime totals and into the recent counts,
+     * which halve on every call so the order follows the current traffic rather than all of it.
+     */
+    synchronized void reorder() {
+        var rates = new double[names.length];
+        for (int i = 0; i < names.length; i++) {
+            var evaluations = intervalEvaluations[i].sumThenReset();
+            var rejected = intervalRejections[i].sumThenReset();
+            totalEvaluations[i] += evaluations;
+            totalRejections[i] += rejected;
+            recentEvaluations[i] = recentEvaluations[i] * RECENT_COUNT_DECAY + evaluations;
+            recentRejections[i] = recentRejections[i] * RECENT_COUNT_DECAY + rejected;
+            rates[i] = recentEvaluations[i] == 0 ? 0 : recentRejections[i] / recentEvaluations[i];
+        }
+        var current = order;
+        var reordered = Arrays.stream(current).boxed()
+                .sorted(Comparator.comparingDouble((Integer rule) -> rates[rule]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        if (!Arrays.equals(current, reordered)) {
+            order = reordered;
+        }
+    }
+
+    synchronized RuleChainStatistics statistics() {
+        var current = order;
+        var statistics = new ArrayList<RuleStatistics>(current.length);
+        for (int position = 0; position < current.length; position++) {
+            var rule = current[position];
+            var evaluations = totalEvaluations[rule] + intervalEvaluations[rule].sum();
+            var rejected = totalRejections[rule] + intervalRejections[rule].sum();
+            statistics.add(RuleStatistics.builder()
+                    .name(names[rule])
+                    .position(position)
+                    .evaluations(evaluations)
+                    .rejections(rejected)
+                    .rejectionRate(rate(rejected, evaluations))
+                    .build());
+        }
+        return RuleChainStatistics.builder()
+                .chain(name)
+                .averageNanos(rate(sampledChainNanos.sum(), chainTimingSamples.sum()))
+                .rules(statistics)
+                .build();
+    }
+
+    private void recordTiming(boolean timed, long start) {
+        if (timed) {
+            sampledChainNanos.add(System.nanoTime() - start);
+            chainTimingSamples.increment();
+        }
+    }
+
+    /**
+     * {@code a * b <= c * d} on the full 128-bit products, so large amounts cannot overflow.
+     */
+    private static boolean productAtMost(long a, long b, long c, long d) {
+        var leftHigh = Math.multiplyHigh(a, b);
+        var rightHigh = Math.multiplyHigh(c, d);
+        if (leftHigh != rightHigh) {
+            return leftHigh < rightHigh;
+        }
+        return Long.compareUnsigned(a * b, c * d) <= 0;
+    }
+
+    private static double rate(long part, long total) {
+        return total == 0 ? 0 : (double) part / total;
+    }
+}
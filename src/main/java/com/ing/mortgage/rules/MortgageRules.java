@@ -0,0 +1,109 @@
+package com.ing.mortgage.rules;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ing.mortgage.model.request.MortgageRequest;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Affordability rules loaded from {@code mortgage.rules.location} and compiled into two chains:
+ * the loan rules, checked before the monthly costs are calculated, and the affordability rules that
+ * need those costs (debt-to-income). Unknown keys in the rules file fail the load, so a misspelled
+ * {@code maturityPeriod} or {@code rejection} cannot silently widen a rule.
+ */
+@Slf4j
+@Component
+public class MortgageRules {
+
+    private static final int REORDER_INTERVAL_SECONDS = 10;
+    private static final int MAX_LIMIT_DIGITS = 18;
+
+    private final Resource rulesLocation;
+    private final ObjectMapper objectMapper;
+
+    private CompiledRuleChain loanRules;
+    private CompiledRuleChain affordabilityRules;
+
+    public MortgageRules(@Value("${mortgage.rules.location}") Resource rulesLocation,
+                         ObjectMapper objectMapper) {
+        this.rulesLocation = rulesLocation;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void load() {
+        log.info("Loading mortgage rules from {}...", rulesLocation);
+        List<RuleDefinition> definitions;
+        try (var inputStream = rulesLocation.getInputStream()) {
+            definitions = objectMapper.readerFor(new TypeReference<List<RuleDefinition>>() {})
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(inputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read mortgage rules from " + rulesLocation, e);
+        }
+        definitions.forEach(MortgageRules::validate);
+
+        loanRules = new CompiledRuleChain("loan", definitions.stream().filter(rule -> !rule.type().requiresMonthlyCosts()).toList());
+        affordabilityRules = new CompiledRuleChain("affordability", definitions.stream().filter(rule -> rule.type().requiresMonthlyCosts()).toList());
+        log.info("Successfully loaded {} mortgage rules", definitions.size());
+    }
+
+    public void checkLoan(MortgageRequest mortgageRequest) {
+        loanRules.evaluate(operands(mortgageRequest, BigDecimal.ZERO), maturityPeriod(mortgageRequest));
+    }
+
+    public void checkAffordability(MortgageRequest mortgageRequest, BigDecimal monthlyCosts) {
+        affordabilityRules.evaluate(operands(mortgageRequest, monthlyCosts), maturityPeriod(mortgageRequest));
+    }
+
+    @Scheduled(fixedRate = REORDER_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void reorder() {
+        loanRules.reorder();
+        affordabilityRules.reorder();
+    }
+
+    public List<RuleChainStatistics> getStatistics() {
+        return List.of(loanRules.statistics(), affordabilityRules.statistics());
+    }
+
+    private static long[] operands(MortgageRequest mortgageRequest, BigDecimal monthlyCosts) {
+        var operands = new long[Operand.COUNT];
+        operands[Operand.INCOME.ordinal()] = cents(mortgageRequest.income());
+        operands[Operand.LOAN_VALUE.ordinal()] = cents(mortgageRequest.loanValue());
+        operands[Operand.HOME_VALUE.ordinal()] = cents(mortgageRequest.homeValue());
+        operands[Operand.ANNUAL_COSTS.ordinal()] = cents(monthlyCosts) * 12;
+        operands[Operand.ONE.ordinal()] = cents(BigDecimal.ONE);
+        return operands;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    private static int maturityPeriod(MortgageRequest mortgageRequest) {
+        return mortgageRequest.maturityPeriod() == null ? Integer.MIN_VALUE : mortgageRequest.maturityPeriod();
+    }
+
+    private static void validate(RuleDefinition definition) {
+        if (definition.name() == null || definition.type() == null || definition.limit() == null
+                || definition.limit().signum() <= 0) {
+            throw new IllegalStateException("Invalid mortgage rule: " + definition);
+        }
+        var limit = CompiledRuleChain.normalizeLimit(definition.limit());
+        if (limit.precision() > MAX_LIMIT_DIGITS || limit.scale() > MAX_LIMIT_DIGITS) {
+            throw new IllegalStateException("Mortgage rule limit has too many digits: " + definition);
+        }
+    }
+}
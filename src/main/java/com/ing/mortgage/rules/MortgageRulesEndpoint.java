@@ -0,0 +1,21 @@
+package com.ing.mortgage.rules;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "rules")
+@RequiredArgsConstructor
+public class MortgageRulesEndpoint {
+
+    private final MortgageRules mortgageRules;
+
+    @ReadOperation
+    public List<RuleChainStatistics> statistics() {
+        return mortgageRules.getStatistics();
+    }
+}
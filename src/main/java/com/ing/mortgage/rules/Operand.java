@@ -0,0 +1,15 @@
+package com.ing.mortgage.rules;
+
+/**
+ * Values of a mortgage check a rule can compare, in whole cents. The ordinal is the position in the
+ * operand array the compiled rules read from.
+ */
+enum Operand {
+    INCOME,
+    LOAN_VALUE,
+    HOME_VALUE,
+    ANNUAL_COSTS,
+    ONE;
+
+    static final int COUNT = values().length;
+}
@@ -0,0 +1,15 @@
+package com.ing.mortgage.rules;
+
+import java.math.BigDecimal;
+
+/**
+ * One rule as written in the rules file. {@code maturityPeriod} restricts the rule to checks for
+ * that maturity period and {@code rejection} overrides the rejection of the rule type.
+ */
+public record RuleDefinition(
+    String name,
+    RuleType type,
+    BigDecimal limit,
+    Integer maturityPeriod,
+    RuleRejection rejection
+) {}
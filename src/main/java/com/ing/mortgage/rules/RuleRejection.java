@@ -0,0 +1,22 @@
+package com.ing.mortgage.rules;
+
+import com.ing.mortgage.exception.LoanHigherThanHouseValueException;
+import com.ing.mortgage.exception.LoanToValueTooHighException;
+import com.ing.mortgage.exception.LowIncomeForLoanException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public enum RuleRejection {
+
+    LOW_INCOME(LowIncomeForLoanException::new),
+    LOAN_HIGHER_THAN_HOUSE_VALUE(LoanHigherThanHouseValueException::new),
+    LOAN_TO_VALUE_TOO_HIGH(LoanToValueTooHighException::new);
+
+    private final Supplier<RuntimeException> exception;
+
+    RuntimeException exception() {
+        return exception.get();
+    }
+}
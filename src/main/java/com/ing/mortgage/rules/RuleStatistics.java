@@ -0,0 +1,15 @@
+package com.ing.mortgage.rules;
+
+import lombok.Builder;
+
+/**
+ * Lifetime counts of one rule and its current position in its chain.
+ */
+@Builder
+public record RuleStatistics(
+    String name,
+    int position,
+    long evaluations,
+    long rejections,
+    double rejectionRate
+) {}
@@ -0,0 +1,27 @@
+package com.ing.mortgage.rules;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Every rule type is a single comparison {@code left <= right} where the configured limit scales
+ * either the left or the right operand.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RuleType {
+
+    MIN_INCOME(Operand.ONE, Operand.INCOME, true, RuleRejection.LOW_INCOME),
+    MAX_LOAN_TO_INCOME(Operand.LOAN_VALUE, Operand.INCOME, false, RuleRejection.LOW_INCOME),
+    MAX_LOAN_TO_VALUE(Operand.LOAN_VALUE, Operand.HOME_VALUE, false, RuleRejection.LOAN_TO_VALUE_TOO_HIGH),
+    MAX_DEBT_TO_INCOME(Operand.ANNUAL_COSTS, Operand.INCOME, false, RuleRejection.LOW_INCOME);
+
+    private final Operand left;
+    private final Operand right;
+    private final boolean limitOnLeft;
+    private final RuleRejection defaultRejection;
+
+    boolean requiresMonthlyCosts() {
+        return left == Operand.ANNUAL_COSTS || right == Operand.ANNUAL_COSTS;
+    }
+}
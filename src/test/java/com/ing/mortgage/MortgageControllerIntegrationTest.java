@@ -9,12 +9,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.util.List;
 
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -22,6 +24,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@TestPropertySource(properties = "mortgage.rules.location=classpath:mortgage-rules-test.json")
 class MortgageControllerIntegrationTest {
 
     @Autowired
@@ -128,6 +131,22 @@ class MortgageControllerIntegrationTest {
                 .andExpect(content().string("Low income for this loan!"));
     }
 
+    @Test
+    void shouldRejectLoanToValueAboveMaturityPeriodCap() throws Exception {
+        MortgageRequest request = MortgageRequest.builder()
+                .income(new BigDecimal("80000"))
+                .maturityPeriod(12)
+                .loanValue(new BigDecimal("300000.00"))
+                .homeValue(new BigDecimal("320000.00"))
+                .build();
+
+        mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Loan to value too high for this mortgage!"));
+    }
+
     @Test
     void shouldRejectInvalidMaturityPeriod() throws Exception {
         MortgageRequest request = MortgageRequest.builder()
@@ -243,4 +262,25 @@ class MortgageControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldExposeMortgageAnalytics() throws Exception {
+        MortgageRequest request = MortgageRequest.builder()
+                .income(new BigDecimal("80000"))
+                .maturityPeriod(10)
+                .loanValue(new BigDecimal("300000.00"))
+                .homeValue(new BigDecimal("400000.00"))
+                .build();
+
+        mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/actuator/analytics/minute"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.window").value("MINUTE"))
+                .andExpect(jsonPath("$.maturityPeriods.10.approvals").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.loanToValue.count").isNumber());
+    }
+}
@@ -1,16 +1,19 @@
 package com.ing.mortgage;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ing.mortgage.analytics.MortgageAnalytics;
 import com.ing.mortgage.exception.LoanHigherThanHouseValueException;
 import com.ing.mortgage.exception.LowIncomeForLoanException;
 import com.ing.mortgage.exception.MaturityPeriodNotFoundException;
 import com.ing.mortgage.model.request.MortgageRequest;
 import com.ing.mortgage.model.response.MortgageCheckResponse;
 import com.ing.mortgage.model.response.MortgageRateResponse;
+import com.ing.mortgage.rules.MortgageRules;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.ClassPathResource;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -24,12 +27,17 @@ class MortgageServiceTest {
     @Mock
     private MortgageDataInitializer mortgageDataInitializer;
 
-    @InjectMocks
+    @Mock
+    private MortgageAnalytics mortgageAnalytics;
+
     private MortgageService mortgageService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        MortgageRules mortgageRules = new MortgageRules(new ClassPathResource("mortgage-rules.json"), new ObjectMapper());
+        mortgageRules.load();
+        mortgageService = new MortgageService(mortgageDataInitializer, mortgageAnalytics, mortgageRules);
     }
 
     @Test
@@ -69,6 +77,7 @@ class MortgageServiceTest {
 
         assertTrue(response.feasible());
         assertNotNull(response.monthlyCosts());
+        verify(mortgageAnalytics).record(request, response.monthlyCosts());
     }
 
     @Test
@@ -79,6 +88,7 @@ class MortgageServiceTest {
         );
 
         assertThrows(LowIncomeForLoanException.class, () -> mortgageService.checkMortgagePossibility(request));
+        verify(mortgageAnalytics).record(request, null);
     }
 
     @Test
@@ -102,5 +112,6 @@ class MortgageServiceTest {
         when(mortgageDataInitializer.getInitializedMortgageData()).thenReturn(List.of());
 
         assertThrows(MaturityPeriodNotFoundException.class, () -> mortgageService.checkMortgagePossibility(request));
+        verify(mortgageAnalytics, never()).record(any(), any());
     }
 }
\ No newline at end of file
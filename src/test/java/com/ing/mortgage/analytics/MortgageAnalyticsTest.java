@@ -0,0 +1,132 @@
+package com.ing.mortgage.analytics;
+
+import com.ing.mortgage.model.request.MortgageRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MortgageAnalyticsTest {
+
+    private MutableClock clock;
+    private MortgageAnalytics mortgageAnalytics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-05-22T10:00:00Z"));
+        mortgageAnalytics = new MortgageAnalytics(clock);
+    }
+
+    @Test
+    void shouldReportApprovalRatePerMaturityPeriod() {
+        mortgageAnalytics.record(request(5, "200000", "250000"), BigDecimal.valueOf(900));
+        mortgageAnalytics.record(request(5, "300000", "250000"), null);
+        mortgageAnalytics.record(request(20, "100000", "200000"), BigDecimal.valueOf(500));
+        mortgageAnalytics.record(request(99, "100000", "200000"), null);
+
+        AnalyticsSnapshot snapshot = mortgageAnalytics.snapshot(AnalyticsWindow.MINUTE);
+
+        assertEquals(4, snapshot.checks());
+        assertEquals(2, snapshot.approvals());
+        assertEquals(0.5, snapshot.approvalRate());
+        assertEquals(2, snapshot.maturityPeriods().get("5").checks());
+        assertEquals(0.5, snapshot.maturityPeriods().get("5").approvalRate());
+        assertEquals(1.0, snapshot.maturityPeriods().get("20").approvalRate());
+        assertEquals(1, snapshot.maturityPeriods().get("other").checks());
+        assertEquals(2, snapshot.monthlyCosts().count());
+    }
+
+    @Test
+    void shouldEstimateQuantilesWithinRelativeAccuracy() {
+        for (int loan = 1; loan <= 1000; loan++) {
+            mortgageAnalytics.record(request(10, String.valueOf(loan * 1000), String.valueOf(loan * 2000)), null);
+        }
+
+        AnalyticsSnapshot snapshot = mortgageAnalytics.snapshot(AnalyticsWindow.HOUR);
+
+        assertEquals(1000, snapshot.loanValue().count());
+        assertEquals(500_000, snapshot.loanValue().p50(), 500_000 * 0.01);
+        assertEquals(990_000, snapshot.loanValue().p99(), 990_000 * 0.01);
+        assertEquals(0.5, snapshot.loanToValue().p90(), 0.5 * 0.01);
+    }
+
+    @Test
+    void shouldDropChecksOutsideTheWindow() {
+        mortgageAnalytics.record(request(10, "200000", "250000"), BigDecimal.valueOf(900));
+        mortgageAnalytics.flush();
+
+        clock.advance(Duration.ofMinutes(2));
+        mortgageAnalytics.record(request(10, "200000", "250000"), null);
+
+        assertEquals(1, mortgageAnalytics.snapshot(AnalyticsWindow.MINUTE).checks());
+        assertEquals(2, mortgageAnalytics.snapshot(AnalyticsWindow.HOUR).checks());
+
+        clock.advance(Duration.ofHours(2));
+
+        assertEquals(0, mortgageAnalytics.snapshot(AnalyticsWindow.HOUR).checks());
+        assertEquals(2, mortgageAnalytics.snapshot(AnalyticsWindow.DAY).checks());
+    }
+
+    @Test
+    void shouldNotLoseChecksRecordedConcurrently() {
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            List<Runnable> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        mortgageAnalytics.record(request(5, "200000", "250000"), BigDecimal.valueOf(900));
+                    }
+                });
+            }
+            tasks.forEach(executor::execute);
+            for (int i = 0; i < 10; i++) {
+                mortgageAnalytics.flush();
+            }
+        }
+
+        assertEquals(80_000, mortgageAnalytics.snapshot(AnalyticsWindow.MINUTE).approvals());
+    }
+
+    private static MortgageRequest request(int maturityPeriod, String loanValue, String homeValue) {
+        return new MortgageRequest(new BigDecimal("1000000"), maturityPeriod,
+                new BigDecimal(loanValue), new BigDecimal(homeValue));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
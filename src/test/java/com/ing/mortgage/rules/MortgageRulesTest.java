@@ -0,0 +1,147 @@
+package com.ing.mortgage.rules;
+
+import com.ing.mortgage.exception.LoanToValueTooHighException;
+import com.ing.mortgage.exception.LowIncomeForLoanException;
+import com.ing.mortgage.model.request.MortgageRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MortgageRulesTest {
+
+    private static final String RULES = """
+            [
+              {"name": "income-multiplier", "type": "MAX_LOAN_TO_INCOME", "limit": 4},
+              {"name": "ltv-20-years", "type": "MAX_LOAN_TO_VALUE", "limit": 0.9, "maturityPeriod": 20},
+              {"name": "minimum-income", "type": "MIN_INCOME", "limit": 25000},
+              {"name": "debt-to-income", "type": "MAX_DEBT_TO_INCOME", "limit": 0.3}
+            ]
+            """;
+
+    private MortgageRules mortgageRules;
+
+    @BeforeEach
+    void setUp() {
+        mortgageRules = rules(RULES);
+    }
+
+    @Test
+    void shouldAcceptLoanWithinAllRules() {
+        MortgageRequest request = request("80000", 20, "300000", "400000");
+
+        assertDoesNotThrow(() -> mortgageRules.checkLoan(request));
+        assertDoesNotThrow(() -> mortgageRules.checkAffordability(request, BigDecimal.valueOf(1500)));
+    }
+
+    @Test
+    void shouldApplyLoanToValueCapOnlyToItsMaturityPeriod() {
+        assertThrows(LoanToValueTooHighException.class,
+                () -> mortgageRules.checkLoan(request("80000", 20, "300000", "320000")));
+        assertDoesNotThrow(() -> mortgageRules.checkLoan(request("80000", 10, "300000", "320000")));
+    }
+
+    @Test
+    void shouldRejectLowIncomeAndHighDebtToIncome() {
+        assertThrows(LowIncomeForLoanException.class,
+                () -> mortgageRules.checkLoan(request("20000", 10, "50000", "320000")));
+        assertThrows(LowIncomeForLoanException.class,
+                () -> mortgageRules.checkAffordability(request("50000", 10, "150000", "320000"), BigDecimal.valueOf(1500)));
+    }
+
+    @Test
+    void shouldMoveMostRejectingRuleToTheFront() {
+        for (int i = 0; i < 10; i++) {
+            assertThrows(LowIncomeForLoanException.class,
+                    () -> mortgageRules.checkLoan(request("20000", 10, "50000", "320000")));
+        }
+
+        mortgageRules.reorder();
+
+        List<RuleStatistics> statistics = loanRuleStatistics();
+        assertEquals("minimum-income", statistics.getFirst().name());
+        assertEquals(10, statistics.getFirst().rejections());
+        assertEquals(1.0, statistics.getFirst().rejectionRate());
+        assertEquals(10, statistics.stream().filter(rule -> rule.name().equals("income-multiplier"))
+                .findFirst().orElseThrow().evaluations());
+    }
+
+    @Test
+    void shouldReorderOnRecentRejectionsWhileKeepingLifetimeTotals() {
+        for (int i = 0; i < 10; i++) {
+            assertThrows(LowIncomeForLoanException.class,
+                    () -> mortgageRules.checkLoan(request("20000", 10, "50000", "320000")));
+        }
+        mortgageRules.reorder();
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(LowIncomeForLoanException.class,
+                    () -> mortgageRules.checkLoan(request("30000", 10, "200000", "320000")));
+        }
+        mortgageRules.reorder();
+
+        List<RuleStatistics> statistics = loanRuleStatistics();
+        assertEquals("income-multiplier", statistics.getFirst().name());
+        RuleStatistics minimumIncome = statistics.stream().filter(rule -> rule.name().equals("minimum-income"))
+                .findFirst().orElseThrow();
+        assertEquals(20, minimumIncome.evaluations());
+        assertEquals(10, minimumIncome.rejections());
+    }
+
+    @Test
+    void shouldAcceptLoanExactlyOnFractionalCap() {
+        MortgageRules fractionalRules = rules("""
+                [
+                  {"name": "ltv-10-years", "type": "MAX_LOAN_TO_VALUE", "limit": 0.7, "maturityPeriod": 10},
+                  {"name": "debt-to-income", "type": "MAX_DEBT_TO_INCOME", "limit": 0.3}
+                ]
+                """);
+
+        for (String homeValue : List.of("300001", "300003", "300006", "300008")) {
+            String cap = new BigDecimal(homeValue).multiply(new BigDecimal("0.7")).toPlainString();
+            assertDoesNotThrow(() -> fractionalRules.checkLoan(request("1000000", 10, cap, homeValue)));
+            assertThrows(LoanToValueTooHighException.class, () -> fractionalRules.checkLoan(
+                    request("1000000", 10, new BigDecimal(cap).add(new BigDecimal("0.01")).toPlainString(), homeValue)));
+        }
+
+        MortgageRequest request = request("60001.20", 10, "100000", "320000");
+        assertDoesNotThrow(() -> fractionalRules.checkAffordability(request, new BigDecimal("1500.03")));
+        assertThrows(LowIncomeForLoanException.class,
+                () -> fractionalRules.checkAffordability(request, new BigDecimal("1500.04")));
+    }
+
+    @Test
+    void shouldFailToLoadInvalidRule() {
+        assertThrows(IllegalStateException.class,
+                () -> rules("[{\"name\": \"no-limit\", \"type\": \"MIN_INCOME\"}]"));
+    }
+
+    @Test
+    void shouldFailToLoadRuleWithUnknownKey() {
+        assertThrows(IllegalStateException.class,
+                () -> rules("[{\"name\": \"ltv\", \"type\": \"MAX_LOAN_TO_VALUE\", \"limit\": 0.9, \"maturity_period\": 20}]"));
+    }
+
+    private List<RuleStatistics> loanRuleStatistics() {
+        RuleChainStatistics loanRules = mortgageRules.getStatistics().getFirst();
+        assertEquals("loan", loanRules.chain());
+        return loanRules.rules();
+    }
+
+    private static MortgageRules rules(String json) {
+        MortgageRules rules = new MortgageRules(new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8)),
+                Jackson2ObjectMapperBuilder.json().build());
+        rules.load();
+        return rules;
+    }
+
+    private static MortgageRequest request(String income, int maturityPeriod, String loanValue, String homeValue) {
+        return new MortgageRequest(new BigDecimal(income), maturityPeriod, new BigDecimal(loanValue), new BigDecimal(homeValue));
+    }
+}